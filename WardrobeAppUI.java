@@ -1,17 +1,24 @@
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 import javax.swing.*;
 
 public class WardrobeAppUI extends JFrame {
+    // Captured when the class is loaded so startup metrics include Swing/EDT bootstrap time
+    private static final long STARTUP_NANOS = System.nanoTime();
+    private static final int THUMBNAIL_SIZE = 140;
+
     static class ClothingItem {
         String name, category, size, color;
         ImageIcon image;
+        ImageIcon thumbnail; // Card-sized copy of image, built once and reused by refreshWardrobe()
         String season;
 
         public ClothingItem(String name, String category, String size, String color, ImageIcon image, String season) {
@@ -31,15 +38,26 @@ public class WardrobeAppUI extends JFrame {
 
     private final List<ClothingItem> wardrobe = new ArrayList<>();
     private final List<ClothingItem> currentOutfit = new ArrayList<>();
-    private String currentSeason = "Fall";
+    private String currentSeason = inferSeason(LocalDate.now());
     private int rotationAngle = 0;
     private boolean isRotating = false;
     private Timer rotationTimer;
     private final List<List<ClothingItem>> suggestedOutfits = new ArrayList<>();
+    private boolean firstPaintReported = false;
 
-    private final JPanel wardrobePanel = new JPanel(new GridLayout(0, 4, 10, 10));
+    private final JPanel wardrobePanel = new JPanel(new GridLayout(0, 4, 10, 10)) {
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (!firstPaintReported) {
+                firstPaintReported = true;
+                reportStartupMetric("time-to-first-paint");
+            }
+        }
+    };
     private final JPanel outfitPanel = new JPanel(new BorderLayout());
     private final JTextArea adviceArea = new JTextArea("Fashion advice will appear here...");
+    private EditDialog editDialog; // Created on first edit and reused afterwards
     private final JPanel mannequinPanel = new JPanel() {
         @Override
         protected void paintComponent(Graphics g) {
@@ -84,6 +102,10 @@ public class WardrobeAppUI extends JFrame {
     private final JList<String> outfitList = new JList<>(outfitListModel);
 
     public WardrobeAppUI() {
+        this(false);
+    }
+
+    public WardrobeAppUI(boolean askSeason) {
         setTitle("Virtual Wardrobe");
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         setSize(1200, 800);
@@ -94,8 +116,6 @@ public class WardrobeAppUI extends JFrame {
 
         Font font = new Font("SansSerif", Font.PLAIN, 13);
 
-        askSeasonOnStartup();
-
         JMenuBar menuBar = new JMenuBar();
         JMenu settingsMenu = new JMenu("Settings");
         JMenuItem seasonMenuItem = new JMenuItem("Change Season");
@@ -177,11 +197,35 @@ public class WardrobeAppUI extends JFrame {
         add(centerPanel, BorderLayout.CENTER);
         add(rightPanel, BorderLayout.EAST);
 
-        refreshWardrobe();
         updateOutfitList();
         updateSeasonAdvice();
 
         setVisible(true);
+
+        // Runs once the frame is on screen; with --ask-season the app is not
+        // interactive until the modal prompt has been closed
+        SwingUtilities.invokeLater(() -> {
+            if (askSeason) {
+                askSeasonOnStartup();
+            }
+            reportStartupMetric("time-to-interactive");
+        });
+    }
+
+    private static void reportStartupMetric(String metric) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - STARTUP_NANOS);
+        System.out.println("[startup] " + metric + ": " + elapsedMs + " ms");
+    }
+
+    private static ImageIcon createThumbnail(ImageIcon image) {
+        // Wrapping in ImageIcon waits for the area-averaged scaling to finish before it is drawn
+        ImageIcon scaled = new ImageIcon(image.getImage().getScaledInstance(
+                THUMBNAIL_SIZE, THUMBNAIL_SIZE, Image.SCALE_SMOOTH));
+        BufferedImage thumb = new BufferedImage(THUMBNAIL_SIZE, THUMBNAIL_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = thumb.createGraphics();
+        g2d.drawImage(scaled.getImage(), 0, 0, null);
+        g2d.dispose();
+        return new ImageIcon(thumb);
     }
 
     private JPanel createUploadPanel(Font font) {
@@ -437,122 +481,151 @@ public class WardrobeAppUI extends JFrame {
     private void refreshWardrobe() {
         wardrobePanel.removeAll();
         for (ClothingItem item : wardrobe) {
-            JPanel card = new JPanel(new BorderLayout(5, 5));
-            card.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
+            wardrobePanel.add(createWardrobeCard(item));
+        }
+        wardrobePanel.revalidate();
+        wardrobePanel.repaint();
+    }
 
-            Image scaledImg = item.image.getImage().getScaledInstance(140, 140, Image.SCALE_SMOOTH);
-            JLabel img = new JLabel(new ImageIcon(scaledImg));
-            img.setHorizontalAlignment(JLabel.CENTER);
-            img.setBorder(BorderFactory.createEmptyBorder(6, 6, 6, 6));
+    private JPanel createWardrobeCard(ClothingItem item) {
+        JPanel card = new JPanel(new BorderLayout(5, 5));
+        card.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
 
-            JLabel label = new JLabel("<html><center>" + item.name + "<br/>" + item.category +
-                    "<br/>Size: " + item.size + "<br/>Season: " + item.season + "</center></html>", JLabel.CENTER);
-            label.setFont(new Font("SansSerif", Font.PLAIN, 13));
+        if (item.thumbnail == null) {
+            item.thumbnail = createThumbnail(item.image);
+        }
+        JLabel img = new JLabel(item.thumbnail);
+        img.setHorizontalAlignment(JLabel.CENTER);
+        img.setBorder(BorderFactory.createEmptyBorder(6, 6, 6, 6));
 
-            JButton edit = createButton("✏️", label.getFont());
-            JButton delete = createButton("❌", label.getFont());
+        JLabel label = new JLabel("<html><center>" + item.name + "<br/>" + item.category +
+                "<br/>Size: " + item.size + "<br/>Season: " + item.season + "</center></html>", JLabel.CENTER);
+        label.setFont(new Font("SansSerif", Font.PLAIN, 13));
 
-            edit.addActionListener(e -> showEditDialog(item));
-            delete.addActionListener(e -> {
-                wardrobe.remove(item);
-                refreshWardrobe();
-                currentOutfit.remove(item);
-                updateOutfitList();
-            });
+        JButton edit = createButton("✏️", label.getFont());
+        JButton delete = createButton("❌", label.getFont());
 
-            JPanel btns = new JPanel(new FlowLayout(FlowLayout.CENTER, 2, 2));
-            btns.add(edit);
-            btns.add(delete);
+        edit.addActionListener(e -> showEditDialog(item));
+        delete.addActionListener(e -> {
+            wardrobe.remove(item);
+            refreshWardrobe();
+            currentOutfit.remove(item);
+            updateOutfitList();
+        });
 
-            card.add(img, BorderLayout.NORTH);
-            card.add(label, BorderLayout.CENTER);
-            card.add(btns, BorderLayout.SOUTH);
+        JPanel btns = new JPanel(new FlowLayout(FlowLayout.CENTER, 2, 2));
+        btns.add(edit);
+        btns.add(delete);
 
-            card.addMouseListener(new MouseAdapter() {
-                @Override
-                public void mouseClicked(MouseEvent e) {
-                    if (!currentOutfit.contains(item)) {
-                        currentOutfit.add(item);
-                        updateOutfitList();
-                    }
+        card.add(img, BorderLayout.NORTH);
+        card.add(label, BorderLayout.CENTER);
+        card.add(btns, BorderLayout.SOUTH);
+
+        card.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (!currentOutfit.contains(item)) {
+                    currentOutfit.add(item);
+                    updateOutfitList();
                 }
-            });
+            }
+        });
 
-            wardrobePanel.add(card);
-        }
-        wardrobePanel.revalidate();
-        wardrobePanel.repaint();
+        return card;
     }
 
     private void showEditDialog(ClothingItem item) {
-        JDialog dialog = new JDialog(this, "Edit Clothing Item", true);
-        dialog.setSize(400, 350);
-        dialog.setLocationRelativeTo(this);
-        dialog.setLayout(new GridBagLayout());
-        Font font = new Font("SansSerif", Font.PLAIN, 13);
+        if (editDialog == null) {
+            editDialog = new EditDialog();
+        }
+        editDialog.edit(item);
+    }
 
-        JTextField nameField = new JTextField(item.name);
-        JTextField sizeField = new JTextField(item.size);
-        JTextField colorField = new JTextField(item.color);
-        JComboBox<String> seasonBox = new JComboBox<>(
-                new String[]{"Spring", "Summer", "Fall", "Winter", "All Seasons"});
-        seasonBox.setSelectedItem(item.season);
+    // Built once on first use; edit() rebinds the fields to the selected item
+    private class EditDialog extends JDialog {
+        private static final long serialVersionUID = 1L;
 
-        JLabel imageLabel = new JLabel(new ImageIcon(item.image.getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH)));
-        JButton imageBtn = createButton("📷 Change Image", font);
-        JButton saveBtn = createButton("✅ Save", font);
+        private final JTextField nameField = new JTextField();
+        private final JTextField sizeField = new JTextField();
+        private final JTextField colorField = new JTextField();
+        private final JComboBox<String> seasonBox = new JComboBox<>(
+                new String[]{"Spring", "Summer", "Fall", "Winter", "All Seasons"});
+        private final JLabel imageLabel = new JLabel();
+        private ClothingItem item;
+        private ImageIcon updatedImage;
+
+        EditDialog() {
+            super(WardrobeAppUI.this, "Edit Clothing Item", true);
+            setSize(400, 350);
+            setLayout(new GridBagLayout());
+            Font font = new Font("SansSerif", Font.PLAIN, 13);
+
+            JButton imageBtn = createButton("📷 Change Image", font);
+            JButton saveBtn = createButton("✅ Save", font);
+
+            imageBtn.addActionListener(ev -> {
+                JFileChooser chooser = new JFileChooser();
+                int result = chooser.showOpenDialog(this);
+                if (result == JFileChooser.APPROVE_OPTION) {
+                    updatedImage = new ImageIcon(chooser.getSelectedFile().getAbsolutePath());
+                    imageLabel.setIcon(new ImageIcon(updatedImage.getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH)));
+                }
+            });
 
-        final ImageIcon[] updatedImage = {item.image};
+            GridBagConstraints gbc = new GridBagConstraints();
+            gbc.insets = new Insets(10, 5, 10, 5);
+            gbc.fill = GridBagConstraints.HORIZONTAL;
 
-        imageBtn.addActionListener(ev -> {
-            JFileChooser chooser = new JFileChooser();
-            int result = chooser.showOpenDialog(dialog);
-            if (result == JFileChooser.APPROVE_OPTION) {
-                updatedImage[0] = new ImageIcon(chooser.getSelectedFile().getAbsolutePath());
-                imageLabel.setIcon(new ImageIcon(updatedImage[0].getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH)));
-            }
-        });
+            String[] labels = {"Name:", "Size:", "Color:", "Season:"};
+            Component[] fields = {nameField, sizeField, colorField, seasonBox};
 
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(10, 5, 10, 5);
-        gbc.fill = GridBagConstraints.HORIZONTAL;
+            for (int i = 0; i < labels.length; i++) {
+                gbc.gridx = 0;
+                gbc.gridy = i;
+                add(new JLabel(labels[i]), gbc);
 
-        String[] labels = {"Name:", "Size:", "Color:", "Season:"};
-        Component[] fields = {nameField, sizeField, colorField, seasonBox};
+                gbc.gridx = 1;
+                add(fields[i], gbc);
+            }
 
-        for (int i = 0; i < labels.length; i++) {
             gbc.gridx = 0;
-            gbc.gridy = i;
-            dialog.add(new JLabel(labels[i]), gbc);
+            gbc.gridy = labels.length;
+            add(imageBtn, gbc);
 
             gbc.gridx = 1;
-            dialog.add(fields[i], gbc);
-        }
-
-        gbc.gridx = 0;
-        gbc.gridy = labels.length;
-        dialog.add(imageBtn, gbc);
-
-        gbc.gridx = 1;
-        dialog.add(imageLabel, gbc);
+            add(imageLabel, gbc);
 
-        gbc.gridx = 0;
-        gbc.gridy = labels.length + 1;
-        gbc.gridwidth = 2;
-        dialog.add(saveBtn, gbc);
-
-        saveBtn.addActionListener(ev -> {
-            item.name = nameField.getText().trim();
-            item.size = sizeField.getText().trim();
-            item.color = colorField.getText().trim();
-            item.season = (String) seasonBox.getSelectedItem();
-            item.image = updatedImage[0];
-            refreshWardrobe();
-            updateOutfitList();
-            dialog.dispose();
-        });
+            gbc.gridx = 0;
+            gbc.gridy = labels.length + 1;
+            gbc.gridwidth = 2;
+            add(saveBtn, gbc);
+
+            saveBtn.addActionListener(ev -> {
+                item.name = nameField.getText().trim();
+                item.size = sizeField.getText().trim();
+                item.color = colorField.getText().trim();
+                item.season = (String) seasonBox.getSelectedItem();
+                if (updatedImage != item.image) {
+                    item.image = updatedImage;
+                    item.thumbnail = null;
+                }
+                refreshWardrobe();
+                updateOutfitList();
+                setVisible(false);
+            });
+        }
 
-        dialog.setVisible(true);
+        void edit(ClothingItem item) {
+            this.item = item;
+            this.updatedImage = item.image;
+            nameField.setText(item.name);
+            sizeField.setText(item.size);
+            colorField.setText(item.color);
+            seasonBox.setSelectedItem(item.season);
+            imageLabel.setIcon(new ImageIcon(item.image.getImage().getScaledInstance(40, 40, Image.SCALE_SMOOTH)));
+            setLocationRelativeTo(WardrobeAppUI.this);
+            setVisible(true);
+        }
     }
 
     private void updateOutfitList() {
@@ -563,6 +636,16 @@ public class WardrobeAppUI extends JFrame {
         mannequinPanel.repaint();
     }
 
+    // Meteorological seasons for the northern hemisphere
+    static String inferSeason(LocalDate date) {
+        switch (date.getMonthValue()) {
+            case 3: case 4: case 5: return "Spring";
+            case 6: case 7: case 8: return "Summer";
+            case 9: case 10: case 11: return "Fall";
+            default: return "Winter";
+        }
+    }
+
     private void askSeasonOnStartup() {
         String[] seasons = {"Spring", "Summer", "Fall", "Winter"};
         String selectedSeason = (String) JOptionPane.showInputDialog(
@@ -572,7 +655,7 @@ public class WardrobeAppUI extends JFrame {
                 JOptionPane.QUESTION_MESSAGE,
                 null,
                 seasons,
-                seasons[0]);
+                currentSeason);
 
         if (selectedSeason != null) {
             currentSeason = selectedSeason;
@@ -670,6 +753,13 @@ public class WardrobeAppUI extends JFrame {
     }
 
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(WardrobeAppUI::new);
+        boolean askSeason = false;
+        for (String arg : args) {
+            if (arg.equals("--ask-season")) {
+                askSeason = true;
+            }
+        }
+        final boolean ask = askSeason;
+        SwingUtilities.invokeLater(() -> new WardrobeAppUI(ask));
     }
 }
\ No newline at end of file